@@ -22,10 +22,10 @@ export default function CitySearch({ onSelectCity }) {
 
     clearTimeout(debounceRef.current);
     debounceRef.current = setTimeout(() => {
-      axios.get(`${API_URL}/api/cities?prefix=${encodeURIComponent(query)}`)
+      axios.get(`${API_URL}/api/cities/autocomplete?q=${encodeURIComponent(query)}&limit=5&fields=name,stateCode`)
         .then(res => {
           // res.data is assumed to be City[]
-          setSuggestions(res.data.slice(0, 5));
+          setSuggestions(res.data);
         })
         .catch(err => {
           console.error('Error fetching city suggestions:', err);
@@ -9,7 +9,7 @@ export default function GlobalNews() {
 
   useEffect(() => {
     setIsLoading(true); // Set loading true on effect run
-    axios.get(`${API_URL}/api/articles/global`)
+    axios.get(`${API_URL}/api/articles/global?view=summary`)
       .then(res => {
         setArticles(res.data);
         setIsLoading(false); // Set loading false on success
@@ -42,7 +42,7 @@ export default function GlobalNews() {
       <div className="space-y-4"> {/* Increased space between articles */}
         {articles.length > 0 ? (
           articles.map(a => (
-            <article key={a.id} className="group"> {/* Use article tag for semantic HTML */}
+            <article key={a.url} className="group"> {/* Use article tag for semantic HTML */}
               <a
                 href={a.url}
                 className="block p-3 -mx-3 rounded-lg hover:bg-gray-50 transition-colors duration-200"
@@ -85,7 +85,7 @@ export default function GlobalNews() {
             ))
           ) : (
             articles.map(a => (
-              <article key={a.id} className="group">
+              <article key={a.url} className="group">
                 {/* содержание статьи */}
               </article>
             ))
@@ -15,7 +15,7 @@ export default function LocalNews({ city }) {
     setIsLoading(true);
     const timer = setTimeout(() => {
       axios
-        .get(`${API_URL}/api/articles/local/${encodeURIComponent(cityName)}`)
+        .get(`${API_URL}/api/articles/local/${encodeURIComponent(cityName)}?view=summary`)
         .then(res => {
           setArticles(res.data);
           setIsLoading(false);
@@ -0,0 +1,99 @@
+package com.example.localnews_backend.config;
+
+import com.example.localnews_backend.model.Article;
+import com.example.localnews_backend.model.City;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Jackson setup shared by all wire formats. JSON stays the default; clients
+ * sending {@code Accept: application/cbor} or {@code application/x-jackson-smile}
+ * get the same payload in a compact binary encoding.
+ */
+@Configuration
+public class JacksonConfig {
+    /** Filter id behind the {@code fields=} projection. */
+    public static final String FIELD_FILTER_ID = "fieldProjection";
+
+    /** Default provider registered on every ObjectMapper: no projection. */
+    public static final FilterProvider ALL_FIELDS =
+            new SimpleFilterProvider().addFilter(FIELD_FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    /**
+     * Attaches the {@code fields=} filter to the models through mix-ins, so the
+     * models stay plain POJOs and mappers created elsewhere are unaffected.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldProjectionCustomizer() {
+        return builder -> builder
+                .filters(ALL_FIELDS)
+                .mixIn(Article.class, ArticleMixIn.class)
+                .mixIn(City.class, CityMixIn.class);
+    }
+
+    // Built from Boot's builder so binary formats share the JSON mapper's modules and settings
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // Ids are never assigned by InMemoryStorage, and unset fields (e.g. city on global articles) are just payload
+    @JsonFilter(FIELD_FILTER_ID)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract static class ArticleMixIn {
+        @JsonIgnore
+        abstract Long getId();
+    }
+
+    @JsonFilter(FIELD_FILTER_ID)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract static class CityMixIn {
+        @JsonIgnore
+        abstract Long getId();
+
+        @JsonSerialize(using = CoordinateSerializer.class)
+        abstract BigDecimal getLat();
+
+        @JsonSerialize(using = CoordinateSerializer.class)
+        abstract BigDecimal getLon();
+    }
+
+    /**
+     * Writes coordinates as doubles. CBOR and Smile would otherwise encode BigDecimal
+     * as a tagged decimal fraction, which is larger and poorly supported by generic decoders.
+     */
+    static class CoordinateSerializer extends StdSerializer<BigDecimal> {
+        CoordinateSerializer() {
+            super(BigDecimal.class);
+        }
+
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.doubleValue());
+        }
+    }
+}
@@ -2,26 +2,58 @@ package com.example.localnews_backend.controller;
 
 import com.example.localnews_backend.model.Article;
 import com.example.localnews_backend.storage.InMemoryStorage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/articles")
 public class ArticleController {
+    /** Fields a feed list needs; selected with ?view=summary. */
+    static final Set<String> SUMMARY_FIELDS = Set.of("title", "url", "source", "publishedAt");
+
     private final InMemoryStorage storage;
+    private final FieldProjection projection;
 
-    public ArticleController(InMemoryStorage storage) {
+    public ArticleController(InMemoryStorage storage, FieldProjection projection) {
         this.storage = storage;
+        this.projection = projection;
     }
 
+    /**
+     * GET /api/articles/global?view=summary&fields={a,b,...}
+     * An explicit fields list wins over the view. Unknown views or field names are rejected with 400.
+     */
     @GetMapping("/global")
-    public List<Article> getGlobal() {
-        return storage.findTop20ByLocalHintFalseOrderByPublishedAtDesc();
+    public MappingJacksonValue getGlobal(
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields
+    ) {
+        return FieldProjection.project(
+                storage.findTop20ByLocalHintFalseOrderByPublishedAtDesc(), selectFields(view, fields));
     }
 
     @GetMapping("/local/{cityName}")
-    public List<Article> getLocal(@PathVariable String cityName) {
-        return storage.findTop80ByLocalHintTrueAndCityOrderByPublishedAtDesc(cityName);
+    public MappingJacksonValue getLocal(
+            @PathVariable String cityName,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields
+    ) {
+        return FieldProjection.project(
+                storage.findTop80ByLocalHintTrueAndCityOrderByPublishedAtDesc(cityName), selectFields(view, fields));
+    }
+
+    private Set<String> selectFields(String view, String fields) {
+        if (view != null && !"summary".equalsIgnoreCase(view)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown view '" + view + "', expected 'summary'");
+        }
+        Set<String> requested = projection.parse(fields, Article.class);
+        if (requested.isEmpty() && view != null) {
+            return SUMMARY_FIELDS;
+        }
+        return requested;
     }
 }
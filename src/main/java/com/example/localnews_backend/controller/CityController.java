@@ -1,34 +1,61 @@
 package com.example.localnews_backend.controller;
 
 import com.example.localnews_backend.model.City;
+import com.example.localnews_backend.storage.CityAutocompleteIndex;
 import com.example.localnews_backend.storage.InMemoryStorage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/cities")
 public class CityController {
 
     private final InMemoryStorage storage;
+    private final FieldProjection projection;
 
-    public CityController(InMemoryStorage storage) {
+    public CityController(InMemoryStorage storage, FieldProjection projection) {
         this.storage = storage;
+        this.projection = projection;
     }
 
     /**
-     * GET /api/cities?prefix={prefix}&page={page}&size={size}
+     * GET /api/cities?prefix={prefix}&page={page}&size={size}&fields={a,b,...}
      * Returns a paginated list of cities whose names start with the given prefix.
      */
     @GetMapping
-    public List<City> getCities(
+    public MappingJacksonValue getCities(
             @RequestParam(defaultValue = "") String prefix,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields
+    ) {
+        return FieldProjection.project(
+                storage.findByNameStartingWith(prefix, page, size), projection.parse(fields, City.class));
+    }
+
+    /**
+     * GET /api/cities/autocomplete?q={query}&limit={limit}&fields={a,b,...}
+     * Returns the most populous cities matching the query as a prefix,
+     * tolerating small typos (e.g. "Sna Fran" finds San Francisco).
+     * An empty query returns no cities; limit must be between 1 and
+     * {@link CityAutocompleteIndex#TOP_K}, otherwise the request is rejected with 400.
+     */
+    @GetMapping("/autocomplete")
+    public MappingJacksonValue autocomplete(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) String fields
     ) {
-        return storage.findByNameStartingWith(prefix, page, size);
+        if (limit < 1 || limit > CityAutocompleteIndex.TOP_K) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + CityAutocompleteIndex.TOP_K);
+        }
+        return FieldProjection.project(
+                storage.autocompleteCities(q, limit), projection.parse(fields, City.class));
     }
 }
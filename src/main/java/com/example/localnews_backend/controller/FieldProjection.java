@@ -0,0 +1,85 @@
+package com.example.localnews_backend.controller;
+
+import com.example.localnews_backend.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers for the {@code fields=} query parameter. Models carrying the
+ * {@link JacksonConfig#FIELD_FILTER_ID} filter serialize every property
+ * unless a response is wrapped with {@link #project(Object, Set)}.
+ */
+@Component
+class FieldProjection {
+    private final ObjectMapper mapper;
+    private final Map<Class<?>, Set<String>> knownFields = new ConcurrentHashMap<>();
+
+    FieldProjection(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Parses "title, url,source" into a set; blank or missing means all fields.
+     * Names {@code type} does not serialize are rejected with 400 rather than producing empty objects.
+     */
+    Set<String> parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(f -> !f.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> known = knownFields(type);
+        if (!known.containsAll(requested)) {
+            Set<String> unknown = new TreeSet<>(requested);
+            unknown.removeAll(known);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown fields " + unknown + ", expected any of " + new TreeSet<>(known));
+        }
+        return requested;
+    }
+
+    /** Property names the JSON mapper writes for {@code type}, mix-ins included. */
+    Set<String> knownFields(Class<?> type) {
+        return knownFields.computeIfAbsent(type, t -> mapper.getSerializationConfig()
+                .introspect(mapper.constructType(t))
+                .findProperties().stream()
+                .filter(BeanPropertyDefinition::couldSerialize)
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * Wraps a response so only {@code fields} are written. The filter is applied
+     * by whichever Jackson converter wins content negotiation (JSON, CBOR or Smile),
+     * which streams straight to the response body.
+     */
+    static MappingJacksonValue project(Object value, Set<String> fields) {
+        MappingJacksonValue wrapper = new MappingJacksonValue(value);
+        wrapper.setFilters(filters(fields));
+        return wrapper;
+    }
+
+    /** The filter provider that writes only {@code fields}; empty means all of them. */
+    static FilterProvider filters(Set<String> fields) {
+        return fields.isEmpty()
+                ? JacksonConfig.ALL_FIELDS
+                : new SimpleFilterProvider().addFilter(JacksonConfig.FIELD_FILTER_ID,
+                        SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.localnews_backend.storage;
+
+import com.example.localnews_backend.model.City;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie over city names for typo-tolerant autocomplete.
+ * Every node keeps the {@link #TOP_K} most populous cities of its subtree,
+ * so an exact prefix lookup is a walk plus a copy. Fuzzy lookups walk the
+ * trie with a bounded edit-distance row (Levenshtein plus adjacent
+ * transpositions), anchored on the first letter, and prune any branch that
+ * can no longer match.
+ */
+public class CityAutocompleteIndex {
+    public static final int TOP_K = 10;
+
+    private static final City[] NO_CITIES = new City[0];
+
+    private static final Comparator<City> BY_POPULATION_DESC =
+            Comparator.comparing((City c) -> c.getPopulation() != null ? c.getPopulation() : 0)
+                    .reversed()
+                    .thenComparing(City::getName);
+
+    private final Node root = new Node();
+
+    private CityAutocompleteIndex() {
+    }
+
+    public static CityAutocompleteIndex build(List<City> cities) {
+        CityAutocompleteIndex index = new CityAutocompleteIndex();
+        for (City city : cities) {
+            if (city.getName() != null) {
+                index.insert(city);
+            }
+        }
+        index.root.computeTop();
+        return index;
+    }
+
+    /**
+     * Returns up to {@code limit} cities matching {@code query} as a prefix,
+     * allowing a few typos for longer queries. Closer matches come first,
+     * then larger populations. A query with no letters or digits matches
+     * nothing; {@code limit} is capped at {@link #TOP_K}, and a limit of zero
+     * or less returns an empty list.
+     */
+    public List<City> search(String query, int limit) {
+        String q = normalize(query);
+        int k = Math.min(limit, TOP_K);
+        if (q.isEmpty() || k <= 0) {
+            return List.of();
+        }
+
+        int maxDistance = maxDistanceFor(q.length());
+        if (maxDistance == 0) {
+            Node node = root.find(q);
+            return node == null ? List.of() : List.of(Arrays.copyOf(node.top, Math.min(k, node.top.length)));
+        }
+
+        Map<City, Integer> best = new HashMap<>();
+        int[] firstRow = new int[q.length() + 1];
+        for (int i = 0; i <= q.length(); i++) {
+            firstRow[i] = i;
+        }
+        collect(root, q, maxDistance, null, firstRow, (char) 0, best);
+
+        List<Map.Entry<City, Integer>> ranked = new ArrayList<>(best.entrySet());
+        ranked.sort(Map.Entry.<City, Integer>comparingByValue()
+                .thenComparing(Map.Entry::getKey, BY_POPULATION_DESC));
+
+        List<City> result = new ArrayList<>(k);
+        for (int i = 0; i < ranked.size() && i < k; i++) {
+            result.add(ranked.get(i).getKey());
+        }
+        return result;
+    }
+
+    private void collect(Node node, String q, int maxDistance,
+                         int[] prevRow, int[] row, char prevChar, Map<City, Integer> best) {
+        int distance = row[q.length()];
+        if (distance <= maxDistance) {
+            for (City city : node.top) {
+                best.merge(city, distance, Math::min);
+            }
+        }
+
+        for (int c = 0; c < node.size; c++) {
+            char ch = node.labels[c];
+            // Typos in the first letter are rare and unanchored matches explode the search space.
+            if (node == root && ch != q.charAt(0)) {
+                continue;
+            }
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            int rowMin = next[0];
+            for (int i = 1; i < next.length; i++) {
+                char qc = q.charAt(i - 1);
+                int cost = qc == ch ? 0 : 1;
+                int value = Math.min(Math.min(next[i - 1] + 1, row[i] + 1), row[i - 1] + cost);
+                if (prevRow != null && i > 1 && qc == prevChar && q.charAt(i - 2) == ch) {
+                    value = Math.min(value, prevRow[i - 2] + 1);
+                }
+                next[i] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin <= maxDistance) {
+                collect(node.children[c], q, maxDistance, row, next, ch, best);
+            }
+        }
+    }
+
+    private void insert(City city) {
+        Node node = root;
+        String key = normalize(city.getName());
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        node.addTerminal(city);
+    }
+
+    /** Short queries are matched exactly, longer ones tolerate one or two typos. */
+    static int maxDistanceFor(int length) {
+        if (length <= 2) return 0;
+        if (length <= 5) return 1;
+        return 2;
+    }
+
+    /** Lowercases, drops punctuation and collapses whitespace so "St. Louis" matches "st louis". */
+    static String normalize(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < s.length(); i++) {
+            char ch = Character.toLowerCase(s.charAt(i));
+            if (Character.isLetterOrDigit(ch)) {
+                if (pendingSpace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                pendingSpace = false;
+                sb.append(ch);
+            } else if (Character.isWhitespace(ch) || ch == '-') {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int size;
+        private List<City> terminals;
+        private City[] top = NO_CITIES;
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            return node;
+        }
+
+        Node child(char ch) {
+            for (int i = 0; i < size; i++) {
+                if (labels[i] == ch) return children[i];
+            }
+            return null;
+        }
+
+        Node childOrCreate(char ch) {
+            Node existing = child(ch);
+            if (existing != null) return existing;
+            if (size == labels.length) {
+                int capacity = Math.max(2, size * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            Node created = new Node();
+            labels[size] = ch;
+            children[size] = created;
+            size++;
+            return created;
+        }
+
+        void addTerminal(City city) {
+            if (terminals == null) {
+                terminals = new ArrayList<>(1);
+            }
+            terminals.add(city);
+        }
+
+        /** Post-order merge of children's top lists; trims child arrays once the trie is final. */
+        void computeTop() {
+            List<City> candidates = new ArrayList<>();
+            if (terminals != null) {
+                candidates.addAll(terminals);
+                terminals = null;
+            }
+            for (int i = 0; i < size; i++) {
+                children[i].computeTop();
+                candidates.addAll(Arrays.asList(children[i].top));
+            }
+            labels = Arrays.copyOf(labels, size);
+            children = Arrays.copyOf(children, size);
+            candidates.sort(BY_POPULATION_DESC);
+            top = candidates.subList(0, Math.min(TOP_K, candidates.size())).toArray(NO_CITIES);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 public class InMemoryStorage {
     private final List<City> cities = new ArrayList<>();
     private final List<Article> articles = new ArrayList<>();
+    private volatile CityAutocompleteIndex cityIndex = CityAutocompleteIndex.build(List.of());
 
     // --- Cities API (you already have these) ---
     public long countCities() {
@@ -22,6 +23,7 @@ public class InMemoryStorage {
 
     public void saveAllCities(List<City> list) {
         cities.addAll(list);
+        cityIndex = CityAutocompleteIndex.build(cities);
     }
 
     public List<City> findByNameStartingWith(String prefix, int page, int size) {
@@ -32,6 +34,10 @@ public class InMemoryStorage {
                 .collect(Collectors.toList());
     }
 
+    public List<City> autocompleteCities(String query, int limit) {
+        return cityIndex.search(query, limit);
+    }
+
     // --- Articles API (new) ---
     public long countArticles() {
         return articles.size();
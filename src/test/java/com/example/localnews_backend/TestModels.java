@@ -0,0 +1,27 @@
+package com.example.localnews_backend;
+
+import com.example.localnews_backend.model.City;
+
+import java.math.BigDecimal;
+
+/** Model builders shared by tests in every package. */
+public final class TestModels {
+
+	private TestModels() {
+	}
+
+	public static City city(String name, int population) {
+		City city = new City();
+		city.setName(name);
+		city.setPopulation(population);
+		return city;
+	}
+
+	public static City city(String name, String stateCode, String lat, String lon, int population) {
+		City city = city(name, population);
+		city.setStateCode(stateCode);
+		city.setLat(new BigDecimal(lat));
+		city.setLon(new BigDecimal(lon));
+		return city;
+	}
+}
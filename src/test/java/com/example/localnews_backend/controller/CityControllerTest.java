@@ -0,0 +1,56 @@
+package com.example.localnews_backend.controller;
+
+import com.example.localnews_backend.storage.InMemoryStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.example.localnews_backend.TestModels.city;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CityController.class)
+@Import({InMemoryStorage.class, FieldProjection.class})
+class CityControllerTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private InMemoryStorage storage;
+
+	@BeforeEach
+	void seed() {
+		if (storage.countCities() == 0) {
+			storage.saveAllCities(List.of(city("New York", 18_908_608), city("Newark", 307_220)));
+		}
+	}
+
+	@Test
+	void autocompleteRanksByPopulation() throws Exception {
+		mvc.perform(get("/api/cities/autocomplete?q=new&limit=5"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].name").value(contains("New York", "Newark")));
+	}
+
+	@Test
+	void autocompleteRejectsLimitOutsideTopK() throws Exception {
+		mvc.perform(get("/api/cities/autocomplete?q=new&limit=11")).andExpect(status().isBadRequest());
+		mvc.perform(get("/api/cities/autocomplete?q=new&limit=0")).andExpect(status().isBadRequest());
+		mvc.perform(get("/api/cities/autocomplete?q=new&limit=10")).andExpect(status().isOk());
+	}
+
+	@Test
+	void autocompleteWithEmptyQueryReturnsNothing() throws Exception {
+		mvc.perform(get("/api/cities/autocomplete?q=..."))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$").isEmpty());
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.localnews_backend.controller;
+
+import com.example.localnews_backend.model.Article;
+import com.example.localnews_backend.storage.InMemoryStorage;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.localnews_backend.TestModels.city;
+
+/** Fixed data so response sizes are comparable between runs. */
+final class TestFixtures {
+
+	static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+	private TestFixtures() {
+	}
+
+	static void seed(InMemoryStorage storage) {
+		if (storage.countArticles() > 0) {
+			return;
+		}
+		Instant base = Instant.parse("2025-06-01T12:00:00Z");
+		for (int i = 0; i < 20; i++) {
+			Article article = new Article();
+			article.setTitle("Council approves new transit plan for downtown corridor, part " + i);
+			article.setBody(("City officials voted on Tuesday to fund a light rail extension and a network "
+					+ "of protected bike lanes, citing growing congestion and commuter demand. ").repeat(2));
+			article.setUrl("https://news.example.com/2025/06/01/transit-plan-" + i);
+			article.setSource("Example News");
+			article.setPublishedAt(base.minusSeconds(3_600L * i));
+			article.setLocalHint(false);
+			storage.saveArticle(article);
+		}
+		storage.saveAllCities(List.of(
+				city("New York", "NY", "40.6943", "-73.9249", 18_908_608),
+				city("Newark", "NJ", "40.7245", "-74.1725", 307_220)
+		));
+	}
+}
@@ -0,0 +1,113 @@
+package com.example.localnews_backend.controller;
+
+import com.example.localnews_backend.config.JacksonConfig;
+import com.example.localnews_backend.model.Article;
+import com.example.localnews_backend.storage.InMemoryStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Payload size and throughput of the 20-article feed per wire format. Serialization
+ * throughput writes the projected list straight to a byte stream with each converter's
+ * mapper; the end-to-end figure goes through MockMvc and is dominated by its overhead.
+ * Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@WebMvcTest(controllers = ArticleController.class)
+@Import({JacksonConfig.class, InMemoryStorage.class, FieldProjection.class})
+class WireFormatBenchmark {
+
+	private static final int SERIALIZE_WARMUP = 20_000;
+	private static final int SERIALIZE_MEASURED = 100_000;
+	private static final int REQUEST_WARMUP = 1_000;
+	private static final int REQUEST_MEASURED = 5_000;
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private InMemoryStorage storage;
+
+	@Autowired
+	private MappingJackson2HttpMessageConverter json;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cbor;
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smile;
+
+	@BeforeEach
+	void seed() {
+		TestFixtures.seed(storage);
+	}
+
+	@Test
+	void feedSizeAndThroughputPerFormat() throws Exception {
+		List<Article> feed = storage.findTop20ByLocalHintFalseOrderByPublishedAtDesc();
+		Set<String> summary = ArticleController.SUMMARY_FIELDS;
+
+		System.out.printf("%-14s %8s %14s %10s %14s%n", "format", "bytes", "serialize/s", "MB/s", "end-to-end/s");
+		run("full json", feed, Set.of(), json.getObjectMapper(), "/api/articles/global", MediaType.APPLICATION_JSON);
+		run("full cbor", feed, Set.of(), cbor.getObjectMapper(), "/api/articles/global", MediaType.APPLICATION_CBOR);
+		run("full smile", feed, Set.of(), smile.getObjectMapper(), "/api/articles/global", TestFixtures.SMILE);
+		run("summary json", feed, summary, json.getObjectMapper(),
+				"/api/articles/global?view=summary", MediaType.APPLICATION_JSON);
+		run("summary cbor", feed, summary, cbor.getObjectMapper(),
+				"/api/articles/global?view=summary", MediaType.APPLICATION_CBOR);
+		run("summary smile", feed, summary, smile.getObjectMapper(),
+				"/api/articles/global?view=summary", TestFixtures.SMILE);
+	}
+
+	private void run(String label, List<Article> feed, Set<String> fields, ObjectMapper mapper,
+					 String uri, MediaType accept) throws Exception {
+		ObjectWriter writer = mapper.writer(FieldProjection.filters(fields));
+		ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+		for (int i = 0; i < SERIALIZE_WARMUP; i++) {
+			out.reset();
+			writer.writeValue(out, feed);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < SERIALIZE_MEASURED; i++) {
+			out.reset();
+			writer.writeValue(out, feed);
+		}
+		double serializeSeconds = (System.nanoTime() - start) / 1e9;
+		int bytes = out.size();
+
+		for (int i = 0; i < REQUEST_WARMUP; i++) {
+			request(uri, accept);
+		}
+		start = System.nanoTime();
+		for (int i = 0; i < REQUEST_MEASURED; i++) {
+			request(uri, accept);
+		}
+		double requestSeconds = (System.nanoTime() - start) / 1e9;
+
+		System.out.printf("%-14s %8d %14.0f %10.1f %14.0f%n", label, bytes,
+				SERIALIZE_MEASURED / serializeSeconds,
+				(double) bytes * SERIALIZE_MEASURED / serializeSeconds / 1e6,
+				REQUEST_MEASURED / requestSeconds);
+	}
+
+	private void request(String uri, MediaType accept) throws Exception {
+		mvc.perform(get(uri).accept(accept)).andReturn();
+	}
+}
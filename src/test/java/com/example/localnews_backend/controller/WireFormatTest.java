@@ -0,0 +1,159 @@
+package com.example.localnews_backend.controller;
+
+import com.example.localnews_backend.config.JacksonConfig;
+import com.example.localnews_backend.model.Article;
+import com.example.localnews_backend.model.City;
+import com.example.localnews_backend.storage.InMemoryStorage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.example.localnews_backend.controller.TestFixtures.SMILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {ArticleController.class, CityController.class})
+@Import({JacksonConfig.class, InMemoryStorage.class, FieldProjection.class})
+class WireFormatTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private InMemoryStorage storage;
+
+	@Autowired
+	private FieldProjection projection;
+
+	private final ObjectMapper json = new ObjectMapper();
+	private final CBORMapper cbor = new CBORMapper();
+	private final SmileMapper smile = new SmileMapper();
+
+	@BeforeEach
+	void seed() {
+		TestFixtures.seed(storage);
+	}
+
+	@Test
+	void fieldsReturnsOnlyThoseKeys() throws Exception {
+		JsonNode articles = json.readTree(body("/api/articles/global?fields=title,url", MediaType.APPLICATION_JSON));
+
+		assertThat(articles).hasSize(20);
+		articles.forEach(a -> assertThat(keys(a)).containsExactlyInAnyOrder("title", "url"));
+	}
+
+	@Test
+	void summaryViewLeavesOutBody() throws Exception {
+		JsonNode articles = json.readTree(body("/api/articles/global?view=summary", MediaType.APPLICATION_JSON));
+
+		articles.forEach(a -> assertThat(keys(a)).containsExactlyInAnyOrder("title", "url", "source", "publishedAt"));
+	}
+
+	@Test
+	void explicitFieldsOverrideView() throws Exception {
+		JsonNode articles = json.readTree(body("/api/articles/global?view=summary&fields=body", MediaType.APPLICATION_JSON));
+
+		articles.forEach(a -> assertThat(keys(a)).containsExactly("body"));
+	}
+
+	@Test
+	void binaryFormatsDecodeToSameProjection() throws Exception {
+		String uri = "/api/articles/global?view=summary";
+		JsonNode expected = json.readTree(body(uri, MediaType.APPLICATION_JSON));
+
+		assertThat(cbor.readTree(body(uri, MediaType.APPLICATION_CBOR))).isEqualTo(expected);
+		assertThat(smile.readTree(body(uri, SMILE))).isEqualTo(expected);
+	}
+
+	@Test
+	void anyAcceptStillGetsJson() throws Exception {
+		mvc.perform(get("/api/articles/global").accept(MediaType.ALL))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+		mvc.perform(get("/api/articles/global"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+	}
+
+	@Test
+	void fullViewLeavesOutNullsAndIds() throws Exception {
+		JsonNode articles = json.readTree(body("/api/articles/global", MediaType.APPLICATION_JSON));
+
+		articles.forEach(a -> assertThat(keys(a))
+				.containsExactlyInAnyOrder("title", "body", "url", "source", "publishedAt", "localHint"));
+		mvc.perform(get("/api/articles/global?fields=id")).andExpect(status().isBadRequest());
+		mvc.perform(get("/api/cities?fields=id")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void knownFieldsComeFromTheMapper() {
+		assertThat(projection.knownFields(Article.class))
+				.containsExactlyInAnyOrder("title", "body", "url", "source", "publishedAt", "localHint", "city");
+		assertThat(projection.knownFields(City.class))
+				.containsExactlyInAnyOrder("name", "stateCode", "lat", "lon", "population");
+	}
+
+	@Test
+	void unknownFieldsAndViewsAreRejected() throws Exception {
+		mvc.perform(get("/api/articles/global?fields=title,foo")).andExpect(status().isBadRequest());
+		mvc.perform(get("/api/articles/global?view=sumary")).andExpect(status().isBadRequest());
+		mvc.perform(get("/api/cities?fields=latitude")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void coordinatesAreWrittenAsDoubles() throws Exception {
+		String uri = "/api/cities?prefix=New&fields=name,lat,lon";
+
+		for (JsonNode city : cbor.readTree(body(uri, MediaType.APPLICATION_CBOR))) {
+			assertThat(city.get("lat").isDouble()).isTrue();
+			assertThat(city.get("lon").isDouble()).isTrue();
+		}
+		for (JsonNode city : smile.readTree(body(uri, SMILE))) {
+			assertThat(city.get("lat").isDouble()).isTrue();
+		}
+		assertThat(json.readTree(body(uri, MediaType.APPLICATION_JSON)).get(0).get("lat").asText())
+				.isEqualTo("40.6943");
+	}
+
+	@Test
+	void summaryAndBinaryPayloadsAreSmaller() throws Exception {
+		int fullJson = body("/api/articles/global", MediaType.APPLICATION_JSON).length;
+		int fullCbor = body("/api/articles/global", MediaType.APPLICATION_CBOR).length;
+		int fullSmile = body("/api/articles/global", SMILE).length;
+		int summaryJson = body("/api/articles/global?view=summary", MediaType.APPLICATION_JSON).length;
+		int summaryCbor = body("/api/articles/global?view=summary", MediaType.APPLICATION_CBOR).length;
+		int summarySmile = body("/api/articles/global?view=summary", SMILE).length;
+
+		assertThat(summaryJson).isLessThan(fullJson / 2);
+		assertThat(fullCbor).isLessThan(fullJson);
+		assertThat(fullSmile).isLessThan(fullJson);
+		assertThat(summaryCbor).isLessThan(summaryJson);
+		assertThat(summarySmile).isLessThan(summaryJson);
+	}
+
+	private byte[] body(String uri, MediaType accept) throws Exception {
+		return mvc.perform(get(uri).accept(accept))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(accept))
+				.andReturn().getResponse().getContentAsByteArray();
+	}
+
+	private static Set<String> keys(JsonNode node) {
+		Set<String> keys = new HashSet<>();
+		node.fieldNames().forEachRemaining(keys::add);
+		return keys;
+	}
+}
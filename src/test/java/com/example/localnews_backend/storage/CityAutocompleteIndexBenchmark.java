@@ -0,0 +1,89 @@
+package com.example.localnews_backend.storage;
+
+import com.example.localnews_backend.TestModels;
+import com.example.localnews_backend.model.City;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Autocomplete latency over a uscities.csv-sized index. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class CityAutocompleteIndexBenchmark {
+
+	private static final int CITIES = 30_000;
+	private static final int WARMUP = 50_000;
+	private static final int MEASURED = 200_000;
+
+	@Test
+	void p99StaysUnderOneMillisecond() {
+		Random random = new Random(42);
+		List<City> cities = new ArrayList<>(CITIES);
+		for (int i = 0; i < CITIES; i++) {
+			cities.add(TestModels.city(randomName(random), random.nextInt(1_000_000)));
+		}
+
+		long buildStart = System.nanoTime();
+		CityAutocompleteIndex index = CityAutocompleteIndex.build(cities);
+		long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+		// Prefixes of real names with one typo, plus clean prefixes of every length
+		String[] queries = new String[1_000];
+		for (int i = 0; i < queries.length; i++) {
+			String name = cities.get(random.nextInt(CITIES)).getName();
+			String prefix = name.substring(0, 1 + random.nextInt(name.length()));
+			queries[i] = i % 2 == 0 ? withTypo(prefix, random) : prefix;
+		}
+
+		for (int i = 0; i < WARMUP; i++) {
+			index.search(queries[i % queries.length], 5);
+		}
+		long[] nanos = new long[MEASURED];
+		for (int i = 0; i < MEASURED; i++) {
+			long start = System.nanoTime();
+			index.search(queries[i % queries.length], 5);
+			nanos[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+
+		long p50 = nanos[MEASURED / 2];
+		long p99 = nanos[MEASURED * 99 / 100];
+		System.out.printf("autocomplete: %d cities, build %d ms, p50 %d us, p99 %d us%n",
+				CITIES, buildMillis, p50 / 1_000, p99 / 1_000);
+		assertThat(p99).isLessThan(1_000_000L);
+	}
+
+	private static String randomName(Random random) {
+		int words = 1 + (random.nextInt(4) == 0 ? 1 : 0);
+		StringBuilder sb = new StringBuilder();
+		for (int w = 0; w < words; w++) {
+			if (w > 0) sb.append(' ');
+			int length = 4 + random.nextInt(8);
+			sb.append((char) ('A' + random.nextInt(26)));
+			for (int i = 1; i < length; i++) {
+				sb.append((char) ('a' + random.nextInt(26)));
+			}
+		}
+		return sb.toString();
+	}
+
+	/** Swaps two adjacent letters after the first; prefixes shorter than three letters are left as is. */
+	private static String withTypo(String prefix, Random random) {
+		if (prefix.length() < 3) {
+			return prefix;
+		}
+		int i = 1 + random.nextInt(prefix.length() - 2);
+		char[] chars = prefix.toCharArray();
+		char tmp = chars[i];
+		chars[i] = chars[i + 1];
+		chars[i + 1] = tmp;
+		return new String(chars);
+	}
+}
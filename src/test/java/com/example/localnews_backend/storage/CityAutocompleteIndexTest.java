@@ -0,0 +1,86 @@
+package com.example.localnews_backend.storage;
+
+import com.example.localnews_backend.model.City;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.localnews_backend.TestModels.city;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityAutocompleteIndexTest {
+
+	private static final CityAutocompleteIndex INDEX = CityAutocompleteIndex.build(cities());
+
+	@Test
+	void toleratesTransposedLetters() {
+		assertThat(names(INDEX.search("Sna Fran", 5))).containsExactly("San Francisco");
+	}
+
+	@Test
+	void toleratesMissingLetter() {
+		assertThat(names(INDEX.search("seatle", 5))).containsExactly("Seattle");
+	}
+
+	@Test
+	void ranksExactPrefixMatchesByPopulationBeforeFuzzyOnes() {
+		assertThat(names(INDEX.search("Spr", 5)))
+				.containsExactly("Springfield", "Spring", "Sprague", "Spokane");
+	}
+
+	@Test
+	void ignoresPunctuationAndCase() {
+		assertThat(names(INDEX.search("St. Louis", 5)))
+				.containsExactly("St. Louis")
+				.isEqualTo(names(INDEX.search("st louis", 5)));
+	}
+
+	@Test
+	void shortQueriesMatchExactly() {
+		assertThat(names(INDEX.search("Se", 5))).containsExactly("Seattle");
+		// "sn" is one transposition away from "San ..." but short queries get no typos
+		assertThat(INDEX.search("sn", 5)).isEmpty();
+	}
+
+	@Test
+	void emptyQueryMatchesNothing() {
+		assertThat(INDEX.search("", 5)).isEmpty();
+		assertThat(INDEX.search(" ... ", 5)).isEmpty();
+	}
+
+	@Test
+	void nonPositiveLimitReturnsNothing() {
+		assertThat(INDEX.search("Spr", 0)).isEmpty();
+		assertThat(INDEX.search("Spr", -1)).isEmpty();
+	}
+
+	@Test
+	void limitIsCappedAtTopK() {
+		List<City> result = INDEX.search("Testville", 50);
+
+		assertThat(result).hasSize(CityAutocompleteIndex.TOP_K);
+		assertThat(result.get(0).getName()).isEqualTo("Testville 15");
+	}
+
+	private static List<City> cities() {
+		List<City> cities = new ArrayList<>(List.of(
+				city("San Francisco", 800_000),
+				city("San Diego", 1_300_000),
+				city("Seattle", 700_000),
+				city("Springfield", 160_000),
+				city("Spring", 50_000),
+				city("Sprague", 400),
+				city("Spokane", 220_000),
+				city("St. Louis", 300_000)
+		));
+		for (int i = 1; i <= 15; i++) {
+			cities.add(city("Testville " + i, i));
+		}
+		return cities;
+	}
+
+	private static List<String> names(List<City> cities) {
+		return cities.stream().map(City::getName).toList();
+	}
+}